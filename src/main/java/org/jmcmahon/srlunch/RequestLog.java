@@ -0,0 +1,101 @@
+/**
+ * Copyright 2014-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not
+ * use this file except in compliance with the License. A copy of the License is
+ * located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.jmcmahon.srlunch;
+
+import org.slf4j.Logger;
+
+/**
+ * Key-value logging helpers for the request path. Success events are sampled
+ * per request so that every line for a kept request is logged together, while
+ * errors are always logged. Messages are only formatted once a line is known
+ * to be written.
+ */
+final class RequestLog {
+
+    /**
+     * System property holding the success sampling rate: one request in N has
+     * its success events logged at INFO. DEBUG logs every request.
+     */
+    static final String SAMPLE_RATE_PROPERTY = "org.jmcmahon.srlunch.log.successSampleRate";
+
+    private static final int SAMPLE_RATE = Math.max(1, Integer.getInteger(SAMPLE_RATE_PROPERTY, 10));
+
+    private RequestLog() {
+    }
+
+    /**
+     * Whether success events for the given request should be logged.
+     *
+     * @param log the logger the events go to
+     * @param requestId the Alexa request id
+     * @return true if the request is sampled in
+     */
+    static boolean isSampled(Logger log, String requestId) {
+        if (log.isDebugEnabled()) {
+            return true;
+        }
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        return requestId == null || (requestId.hashCode() & Integer.MAX_VALUE) % SAMPLE_RATE == 0;
+    }
+
+    /**
+     * Log a sampled lifecycle event.
+     *
+     * @param log the logger to write to
+     * @param event the lifecycle phase name
+     * @param requestId the Alexa request id
+     * @param sessionId the Alexa session id
+     */
+    static void event(Logger log, String event, String requestId, String sessionId) {
+        if (isSampled(log, requestId)) {
+            log.info("event={} requestId={} sessionId={}", event, requestId, sessionId);
+        }
+    }
+
+    /**
+     * Log a sampled intent with the time taken to handle it.
+     *
+     * @param log the logger to write to
+     * @param requestId the Alexa request id
+     * @param sessionId the Alexa session id
+     * @param intent the intent name
+     * @param startNanos the {@link System#nanoTime()} the intent started at
+     */
+    static void intent(Logger log, String requestId, String sessionId, String intent,
+            long startNanos) {
+        if (isSampled(log, requestId)) {
+            log.info("event=onIntent requestId={} sessionId={} intent={} elapsedMs={}",
+                    requestId, sessionId, intent, (System.nanoTime() - startNanos) / 1000000L);
+        }
+    }
+
+    /**
+     * Log a failed intent. Errors are never sampled out.
+     *
+     * @param log the logger to write to
+     * @param requestId the Alexa request id
+     * @param sessionId the Alexa session id
+     * @param intent the intent name
+     * @param startNanos the {@link System#nanoTime()} the intent started at
+     * @param error the failure
+     */
+    static void intentError(Logger log, String requestId, String sessionId, String intent,
+            long startNanos, Throwable error) {
+        log.error("event=onIntentError requestId={} sessionId={} intent={} elapsedMs={}",
+                requestId, sessionId, intent, (System.nanoTime() - startNanos) / 1000000L, error);
+    }
+}
@@ -26,7 +26,8 @@ import java.util.Calendar;
 import java.util.Date;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.amazon.speech.slu.Intent;
 import com.amazon.speech.slu.Slot;
@@ -57,7 +58,7 @@ import java.util.Set;
  */
 public class SRLunchSpeechlet implements Speechlet {
 
-    private static final Logger log = Logger.getLogger(SRLunchSpeechlet.class);
+    private static final Logger log = LoggerFactory.getLogger(SRLunchSpeechlet.class);
 
     /**
      * URL for Sage Dining menu
@@ -116,8 +117,7 @@ public class SRLunchSpeechlet implements Speechlet {
     @Override
     public void onSessionStarted(final SessionStartedRequest request, final Session session)
             throws SpeechletException {
-        log.info("onSessionStarted requestId=" + request.getRequestId() + ", sessionId=" +
-                session.getSessionId());
+        RequestLog.event(log, "onSessionStarted", request.getRequestId(), session.getSessionId());
 
         // any initialization logic goes here
     }
@@ -125,8 +125,7 @@ public class SRLunchSpeechlet implements Speechlet {
     @Override
     public SpeechletResponse onLaunch(final LaunchRequest request, final Session session)
             throws SpeechletException {
-        log.info("onLaunch requestId="+request.getRequestId()+ ", sessionId=" +
-                session.getSessionId());
+        RequestLog.event(log, "onLaunch", request.getRequestId(), session.getSessionId());
 
         return getWelcomeResponse();
     }
@@ -134,12 +133,34 @@ public class SRLunchSpeechlet implements Speechlet {
     @Override
     public SpeechletResponse onIntent(final IntentRequest request, final Session session)
             throws SpeechletException {
-        log.info("onIntent requestId=" + request.getRequestId() + ", sessionId=" +
-                session.getSessionId());
-
+        long start = System.nanoTime();
         Intent intent = request.getIntent();
         String intentName = intent.getName();
 
+        try {
+            SpeechletResponse response = dispatchIntent(intent, intentName, session);
+            RequestLog.intent(log, request.getRequestId(), session.getSessionId(), intentName,
+                    start);
+            return response;
+        } catch (SpeechletException | RuntimeException e) {
+            RequestLog.intentError(log, request.getRequestId(), session.getSessionId(),
+                    intentName, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Route an intent to the handler for its name.
+     *
+     * @param intent the intent object from the request
+     * @param intentName the name of the intent
+     * @param session the session object
+     * @return SpeechletResponse object with voice/card response to return to
+     * the user
+     * @throws SpeechletException if the intent is not one this skill handles
+     */
+    private SpeechletResponse dispatchIntent(Intent intent, String intentName, Session session)
+            throws SpeechletException {
         if (null != intentName) {
             switch (intentName) {
                 case "GetMenuIntent":
@@ -174,8 +195,7 @@ public class SRLunchSpeechlet implements Speechlet {
     @Override
     public void onSessionEnded(final SessionEndedRequest request, final Session session)
             throws SpeechletException {
-        log.info("onSessionEnded requestId=" + request.getRequestId() + ", sessionId=" +
-                session.getSessionId());
+        RequestLog.event(log, "onSessionEnded", request.getRequestId(), session.getSessionId());
 
         // any session cleanup logic would go here
     }
@@ -314,6 +334,7 @@ public class SRLunchSpeechlet implements Speechlet {
                     }
                 }
             } catch (RuntimeException re) {
+                log.warn("event=menuUnavailable date={} reason={}", date, re.getMessage());
                 speechOutput = re.getMessage();
 
                 // Create the plain text output
@@ -329,6 +350,7 @@ public class SRLunchSpeechlet implements Speechlet {
                 return response;
             }
         } catch (RuntimeException re) {
+                log.warn("event=menuDateInvalid reason={}", re.getMessage());
                 String speechOutput = re.getMessage();
 
                 // Create the plain text output
@@ -356,6 +378,7 @@ public class SRLunchSpeechlet implements Speechlet {
         InputStreamReader inputStream = null;
         BufferedReader bufferedReader = null;
         String text = "";
+        long start = System.nanoTime();
         try {
             String line;
             Long curTime = System.currentTimeMillis();
@@ -367,7 +390,13 @@ public class SRLunchSpeechlet implements Speechlet {
                 builder.append(line);
             }
             text = builder.toString();
+            if (log.isDebugEnabled()) {
+                log.debug("event=sageFetch date={} bytes={} elapsedMs={}", date, text.length(),
+                        (System.nanoTime() - start) / 1000000L);
+            }
         } catch (IOException e) {
+            log.error("event=sageFetchError date={} elapsedMs={}", date,
+                    (System.nanoTime() - start) / 1000000L, e);
             // reset text variable to a blank string
             text = "";
         } finally {